@@ -0,0 +1,124 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste de carga ponta a ponta: gera a massa de dados, sobe a aplicação em uma
+ * porta aleatória e mede throughput, latências (p50/p99/p999) e statements SQL
+ * por requisição de cada endpoint.
+ *
+ * Só roda com {@code -Dperf.habilitado=true} (ver o profile Maven {@code perf}).
+ * Os parâmetros da carga ficam em {@code application-perf.properties}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+@EnabledIfSystemProperty(named = "perf.habilitado", matches = "true")
+class ApiprodutosPerformanceTest {
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        ContadorDeStatements.Filtro filtroContadorDeStatements() {
+            return new ContadorDeStatements.Filtro();
+        }
+    }
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${perf.categorias}")
+    private int categorias;
+    @Value("${perf.produtos}")
+    private int produtos;
+    @Value("${perf.requisicoes}")
+    private int requisicoes;
+    @Value("${perf.aquecimento}")
+    private int aquecimento;
+    @Value("${perf.threads}")
+    private int threads;
+    @Value("${perf.proporcao-escrita}")
+    private double proporcaoEscrita;
+    @Value("${perf.semente}")
+    private long semente;
+
+    @Test
+    void cargaEmTodosOsEndpoints() throws InterruptedException {
+        long inicioGeracao = System.nanoTime();
+        GeradorDeDados massa = new GeradorDeDados(jdbcTemplate, semente, categorias, produtos);
+        massa.gerar();
+        long duracaoGeracao = System.nanoTime() - inicioGeracao;
+
+        CargaDeTrabalho carga = new CargaDeTrabalho("http://localhost:" + porta, massa, threads, proporcaoEscrita, semente);
+        carga.executar(aquecimento);
+        ContadorDeStatements.zerar();
+        Medicoes medicoes = carga.executar(requisicoes);
+
+        System.out.println(relatorio(medicoes, duracaoGeracao));
+        assertEquals(0, medicoes.totalErros(), "Requisições da carga falharam; ver o relatório acima.");
+    }
+
+    private String relatorio(Medicoes medicoes, long duracaoGeracao) {
+        StringBuilder texto = new StringBuilder();
+        texto.append(String.format(Locale.ROOT,
+            "%nMassa: %d categorias, %d produtos gerados em %d ms (semente %d)%n",
+            categorias, produtos, duracaoGeracao / 1_000_000, semente));
+        texto.append(String.format(Locale.ROOT,
+            "Carga: %d requisições, %d threads, %.0f%% escrita, %.1f req/s%n"
+            + "Percentis sem amostras suficientes (menos de 100 para p99, 1000 para p999) aparecem como n/a.%n%n",
+            medicoes.total(), threads, proporcaoEscrita * 100, porSegundo(medicoes.total(), medicoes.getDuracaoNanos())));
+        texto.append(String.format(Locale.ROOT, "%-32s %8s %6s %10s %10s %10s %10s %12s%n",
+            "Endpoint", "Req", "Erros", "Req/s", "p50 ms", "p99 ms", "p999 ms", "SQL/req"));
+
+        long statementsTotais = 0;
+        for (Operacao operacao : Operacao.values()) {
+            long quantidade = medicoes.quantidade(operacao);
+            if (quantidade == 0) {
+                continue;
+            }
+            long statements = ContadorDeStatements.contagem(operacao.name());
+            statementsTotais += statements;
+            texto.append(linha(operacao.getEndpoint(), quantidade, medicoes.erros(operacao),
+                medicoes.latenciasOrdenadas(operacao), medicoes.getDuracaoNanos(), statements));
+        }
+        texto.append(linha("TOTAL", medicoes.total(), medicoes.totalErros(),
+            medicoes.latenciasOrdenadas(null), medicoes.getDuracaoNanos(), statementsTotais));
+        return texto.toString();
+    }
+
+    private static String linha(String endpoint, long quantidade, long erros, long[] latencias, long duracao, long statements) {
+        return String.format(Locale.ROOT, "%-32s %8d %6d %10.1f %10s %10s %10s %12.2f%n",
+            endpoint, quantidade, erros, porSegundo(quantidade, duracao),
+            percentilEmMs(latencias, 0.50, 1),
+            percentilEmMs(latencias, 0.99, 100),
+            percentilEmMs(latencias, 0.999, 1000),
+            (double) statements / quantidade);
+    }
+
+    /** Com menos amostras que {@code minimo}, o percentil seria só o valor máximo. */
+    private static String percentilEmMs(long[] latencias, double p, int minimo) {
+        if (latencias.length < minimo) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%.2f", Medicoes.percentil(latencias, p) / 1e6);
+    }
+
+    private static double porSegundo(long quantidade, long duracaoNanos) {
+        return duracaoNanos == 0 ? 0 : quantidade * 1e9 / duracaoNanos;
+    }
+}
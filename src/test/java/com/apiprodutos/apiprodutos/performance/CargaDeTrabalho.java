@@ -0,0 +1,204 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispara requisições HTTP contra todos os endpoints de {@code ProdutoController}
+ * e {@code CategoriaController}, com uma proporção configurável de escritas.
+ *
+ * Leituras e atualizações usam os IDs gerados pelo {@link GeradorDeDados}.
+ * Exclusões só removem registros criados pela própria carga, o que mantém a
+ * massa inicial estável e evita violar a chave estrangeira de produto.
+ */
+public class CargaDeTrabalho {
+    private final HttpClient cliente = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+    private final String urlBase;
+    private final GeradorDeDados massa;
+    private final int categorias;
+    private final int produtos;
+    private final int threads;
+    private final double proporcaoEscrita;
+    /** Origem dos geradores das threads; cada {@code split()} rende uma sequência independente. */
+    private final SplittableRandom sementes;
+
+    private final AtomicLong proximaCategoria;
+    private final AtomicLong proximoProduto;
+    private final Queue<Long> categoriasCriadas = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> produtosCriados = new ConcurrentLinkedQueue<>();
+
+    public CargaDeTrabalho(String urlBase, GeradorDeDados massa, int threads, double proporcaoEscrita, long semente) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("É necessário ao menos uma thread de carga.");
+        }
+        if (proporcaoEscrita < 0 || proporcaoEscrita > 1) {
+            throw new IllegalArgumentException("A proporção de escrita deve estar entre 0 e 1.");
+        }
+        this.urlBase = urlBase;
+        this.massa = massa;
+        // O GeradorDeDados já garante ao menos uma categoria e um produto.
+        this.categorias = massa.getCategorias();
+        this.produtos = massa.getProdutos();
+        this.threads = threads;
+        this.proporcaoEscrita = proporcaoEscrita;
+        this.sementes = new SplittableRandom(semente);
+        this.proximaCategoria = new AtomicLong(categorias + 1L);
+        this.proximoProduto = new AtomicLong(produtos + 1L);
+    }
+
+    public Medicoes executar(int requisicoes) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Medicoes>> resultados = new ArrayList<>(threads);
+        long inicio = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int quota = requisicoes / threads + (t < requisicoes % threads ? 1 : 0);
+            SplittableRandom random = sementes.split();
+            resultados.add(executor.submit(() -> executarThread(quota, random)));
+        }
+
+        Medicoes medicoes = new Medicoes();
+        try {
+            for (Future<Medicoes> resultado : resultados) {
+                medicoes.incorporar(resultado.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao executar a carga.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        medicoes.setDuracaoNanos(System.nanoTime() - inicio);
+        return medicoes;
+    }
+
+    private Medicoes executarThread(int quota, SplittableRandom random) throws IOException, InterruptedException {
+        Medicoes medicoes = new Medicoes();
+        for (int i = 0; i < quota; i++) {
+            Operacao operacao = sortearOperacao(random);
+            Long id = null;
+            if (operacao == Operacao.DELETAR_CATEGORIA) {
+                id = categoriasCriadas.poll();
+                operacao = id == null ? Operacao.CRIAR_CATEGORIA : operacao;
+            } else if (operacao == Operacao.DELETAR_PRODUTO) {
+                id = produtosCriados.poll();
+                operacao = id == null ? Operacao.CRIAR_PRODUTO : operacao;
+            }
+
+            HttpRequest.Builder requisicao = HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .header(ContadorDeStatements.CABECALHO, operacao.name());
+            switch (operacao) {
+                case LISTAR_CATEGORIAS -> requisicao.uri(uri("/categorias"));
+                case BUSCAR_CATEGORIA -> requisicao.uri(uri("/categorias/" + categoriaExistente(random)));
+                case PRODUTOS_DA_CATEGORIA -> requisicao.uri(uri("/categorias/" + categoriaExistente(random) + "/produtos"));
+                case BUSCAR_CATEGORIA_POR_NOME -> requisicao.uri(uri("/categorias/buscar?nome="
+                    + termo(random, GeradorDeDados.TIPOS_CATEGORIA)));
+                case LISTAR_PRODUTOS -> requisicao.uri(uri("/produtos"));
+                case BUSCAR_PRODUTO -> requisicao.uri(uri("/produtos/" + produtoExistente(random)));
+                case BUSCAR_PRODUTO_POR_NOME -> requisicao.uri(uri("/produtos/buscar?nome="
+                    + termo(random, random.nextBoolean() ? GeradorDeDados.TIPOS_PRODUTO : GeradorDeDados.MARCAS)));
+                case APLICAR_DESCONTO -> requisicao.uri(uri("/produtos/" + produtoExistente(random)
+                    + "/desconto?percentual=" + random.nextInt(51)));
+                case CRIAR_CATEGORIA -> {
+                    id = proximaCategoria.getAndIncrement();
+                    requisicao.uri(uri("/categorias"))
+                        .POST(json(String.format(Locale.ROOT, "{\"id\":%d,\"nome\":\"Categoria Carga %d\"}", id, id)));
+                }
+                case ATUALIZAR_CATEGORIA -> {
+                    long existente = categoriaExistente(random);
+                    // Reenvia o nome original para não alterar a massa usada nas buscas.
+                    requisicao.uri(uri("/categorias/" + existente))
+                        .PUT(json(String.format(Locale.ROOT, "{\"nome\":\"%s\"}", GeradorDeDados.nomeCategoria((int) existente - 1))));
+                }
+                case DELETAR_CATEGORIA -> requisicao.uri(uri("/categorias/" + id)).DELETE();
+                case CRIAR_PRODUTO -> {
+                    id = proximoProduto.getAndIncrement();
+                    requisicao.uri(uri("/produtos?categoriaId=" + categoriaExistente(random)))
+                        .POST(json(String.format(Locale.ROOT, "{\"id\":%d,\"nome\":\"Produto Carga %d\",\"preco\":%.2f}",
+                            id, id, 1 + random.nextDouble() * 999)));
+                }
+                case ATUALIZAR_PRODUTO -> {
+                    long existente = produtoExistente(random);
+                    // Reenvia os valores gerados para o ID, como em ATUALIZAR_CATEGORIA.
+                    requisicao.uri(uri("/produtos/" + existente + "?categoriaId=" + massa.categoriaDoProduto(existente)))
+                        .PUT(json(String.format(Locale.ROOT, "{\"nome\":\"%s\",\"preco\":%.2f}",
+                            massa.nomeProduto(existente), massa.precoDoProduto(existente))));
+                }
+                case DELETAR_PRODUTO -> requisicao.uri(uri("/produtos/" + id)).DELETE();
+            }
+
+            long inicio = System.nanoTime();
+            HttpResponse<Void> resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.discarding());
+            long latencia = System.nanoTime() - inicio;
+            boolean sucesso = resposta.statusCode() / 100 == 2;
+            medicoes.registrar(operacao, latencia, !sucesso);
+
+            if (sucesso && operacao == Operacao.CRIAR_CATEGORIA) {
+                categoriasCriadas.add(id);
+            } else if (sucesso && operacao == Operacao.CRIAR_PRODUTO) {
+                produtosCriados.add(id);
+            }
+        }
+        return medicoes;
+    }
+
+    private Operacao sortearOperacao(SplittableRandom random) {
+        boolean escrita = random.nextDouble() < proporcaoEscrita;
+        int pesoTotal = 0;
+        for (Operacao operacao : Operacao.values()) {
+            if (operacao.isEscrita() == escrita) {
+                pesoTotal += operacao.getPeso();
+            }
+        }
+        int sorteio = random.nextInt(pesoTotal);
+        for (Operacao operacao : Operacao.values()) {
+            if (operacao.isEscrita() == escrita) {
+                sorteio -= operacao.getPeso();
+                if (sorteio < 0) {
+                    return operacao;
+                }
+            }
+        }
+        throw new IllegalStateException("Nenhuma operação sorteada.");
+    }
+
+    private long categoriaExistente(SplittableRandom random) {
+        return 1 + random.nextInt(categorias);
+    }
+
+    private long produtoExistente(SplittableRandom random) {
+        return 1 + random.nextInt(produtos);
+    }
+
+    /** Trecho em minúsculas de uma palavra do gerador, para exercitar a busca case insensitive. */
+    private static String termo(SplittableRandom random, String[] palavras) {
+        String palavra = palavras[random.nextInt(palavras.length)];
+        String trecho = palavra.substring(0, Math.min(palavra.length(), 3 + random.nextInt(4)));
+        return URLEncoder.encode(trecho.toLowerCase(Locale.ROOT), StandardCharsets.UTF_8);
+    }
+
+    private URI uri(String caminho) {
+        return URI.create(urlBase + caminho);
+    }
+
+    private static HttpRequest.BodyPublisher json(String corpo) {
+        return HttpRequest.BodyPublishers.ofString(corpo);
+    }
+}
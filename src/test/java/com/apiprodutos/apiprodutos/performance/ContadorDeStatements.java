@@ -0,0 +1,59 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta os statements SQL preparados pelo Hibernate, agrupados pela operação
+ * informada no cabeçalho {@link #CABECALHO} da requisição HTTP.
+ *
+ * O Hibernate instancia o inspector pelo nome da classe
+ * ({@code hibernate.session_factory.statement_inspector}), por isso o estado é estático.
+ */
+public class ContadorDeStatements implements StatementInspector {
+    public static final String CABECALHO = "X-Perf-Operacao";
+
+    private static final ThreadLocal<String> OPERACAO_ATUAL = new ThreadLocal<>();
+    private static final Map<String, LongAdder> CONTAGENS = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        String operacao = OPERACAO_ATUAL.get();
+        if (operacao != null) {
+            CONTAGENS.computeIfAbsent(operacao, chave -> new LongAdder()).increment();
+        }
+        return sql;
+    }
+
+    public static long contagem(String operacao) {
+        LongAdder contagem = CONTAGENS.get(operacao);
+        return contagem == null ? 0 : contagem.sum();
+    }
+
+    public static void zerar() {
+        CONTAGENS.clear();
+    }
+
+    /** Associa a thread da requisição à operação enviada pelo cliente de carga. */
+    public static class Filtro extends OncePerRequestFilter {
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            OPERACAO_ATUAL.set(request.getHeader(CABECALHO));
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                OPERACAO_ATUAL.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera uma massa de dados determinística de categorias e produtos e a carrega
+ * no banco via JDBC em lote, sem passar pelo Hibernate.
+ *
+ * Os IDs são contíguos a partir de 1 ({@code 1..categorias} e {@code 1..produtos})
+ * e os atributos de cada registro dependem só da semente e do ID, o que permite à
+ * carga reenviá-los sem alterar a massa.
+ * Tipos e marcas de produto seguem uma lei de Zipf (a ordem das listas é a de
+ * popularidade), e cada tipo só aparece nas categorias do seu ramo, também
+ * escolhidas por Zipf. Assim poucas categorias e termos de busca concentram a
+ * maior parte dos produtos, como em um catálogo real.
+ */
+public class GeradorDeDados {
+    static final String[] TIPOS_CATEGORIA = {
+        "Informática", "Livros", "Eletrodomésticos", "Moda", "Esportes", "Brinquedos", "Beleza",
+        "Automotivo", "Jardinagem", "Papelaria", "Games", "Música", "Ferramentas", "Alimentos", "Pet Shop"
+    };
+    static final String[] QUALIFICADORES_CATEGORIA = {
+        "Infantil", "Premium", "Importados", "Usados", "Profissional", "Casa", "Escritório", "Outlet"
+    };
+    static final String[] TIPOS_PRODUTO = {
+        "Notebook", "Mouse", "Teclado", "Monitor", "Livro", "Camiseta", "Tênis", "Bola", "Boneca",
+        "Perfume", "Pneu", "Mangueira", "Caderno", "Console", "Violão", "Furadeira", "Café", "Ração",
+        "Liquidificador", "Fone de Ouvido", "Cadeira", "Mochila", "Relógio", "Cafeteira"
+    };
+    /** Índice em {@link #TIPOS_CATEGORIA} do ramo de cada tipo de {@link #TIPOS_PRODUTO}. */
+    static final int[] RAMO_DO_TIPO = {
+        0, 0, 0, 0, 1, 3, 4, 4, 5,
+        6, 7, 8, 9, 10, 11, 12, 13, 14,
+        2, 11, 10, 3, 3, 2
+    };
+    static final String[] MARCAS = {
+        "Acme", "Lenovo", "Samsung", "Positivo", "Logitech", "Nike", "Adidas", "Tramontina", "Bosch",
+        "Mondial", "Philips", "Faber", "Tilibra", "Yamaha", "Natura", "Pirelli", "Makita", "Melitta"
+    };
+    static final String[] MODELOS = { "Pro", "Max", "Lite", "Plus", "Ultra", "Mini", "X", "Eco", "Slim", "Turbo" };
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long semente;
+    private final int categorias;
+    private final int produtos;
+    private final double[] acumuladoCategorias;
+    private final double[] acumuladoTipos = pesosZipf(TIPOS_PRODUTO.length);
+    private final double[] acumuladoMarcas = pesosZipf(MARCAS.length);
+    private final long[][] categoriasPorRamo = new long[TIPOS_CATEGORIA.length][];
+    private final double[][] acumuladoPorRamo = new double[TIPOS_CATEGORIA.length][];
+
+    public GeradorDeDados(JdbcTemplate jdbcTemplate, long semente, int categorias, int produtos) {
+        if (categorias < 1) {
+            throw new IllegalArgumentException("É necessário gerar ao menos uma categoria.");
+        }
+        if (produtos < 1) {
+            throw new IllegalArgumentException("É necessário gerar ao menos um produto.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.semente = semente;
+        this.categorias = categorias;
+        this.produtos = produtos;
+        this.acumuladoCategorias = pesosZipf(categorias);
+        for (int ramo = 0; ramo < TIPOS_CATEGORIA.length; ramo++) {
+            // nomeCategoria(i) pertence ao ramo i % TIPOS_CATEGORIA.length
+            int quantidade = ramo < categorias ? (categorias - 1 - ramo) / TIPOS_CATEGORIA.length + 1 : 0;
+            categoriasPorRamo[ramo] = new long[quantidade];
+            for (int j = 0; j < quantidade; j++) {
+                categoriasPorRamo[ramo][j] = (long) j * TIPOS_CATEGORIA.length + ramo + 1;
+            }
+            acumuladoPorRamo[ramo] = pesosZipf(quantidade);
+        }
+    }
+
+    public int getCategorias() { return categorias; }
+    public int getProdutos() { return produtos; }
+
+    public void gerar() {
+        jdbcTemplate.update("DELETE FROM produto");
+        jdbcTemplate.update("DELETE FROM categoria");
+
+        List<Object[]> linhasCategoria = new ArrayList<>(categorias);
+        for (int i = 0; i < categorias; i++) {
+            linhasCategoria.add(new Object[] { (long) i + 1, nomeCategoria(i) });
+        }
+        inserirEmLotes("INSERT INTO categoria (id, nome) VALUES (?, ?)", linhasCategoria);
+
+        List<Object[]> lote = new ArrayList<>(TAMANHO_LOTE);
+        for (long id = 1; id <= produtos; id++) {
+            lote.add(new Object[] { id, nomeProduto(id), precoDoProduto(id), categoriaDoProduto(id) });
+            if (lote.size() == TAMANHO_LOTE) {
+                inserirEmLotes("INSERT INTO produto (id, nome, preco, categoria_id) VALUES (?, ?, ?, ?)", lote);
+                lote.clear();
+            }
+        }
+        inserirEmLotes("INSERT INTO produto (id, nome, preco, categoria_id) VALUES (?, ?, ?, ?)", lote);
+    }
+
+    /** Nome único por índice: "Livros", depois "Livros Infantil", depois "Livros Infantil 2"... */
+    static String nomeCategoria(int indice) {
+        String tipo = TIPOS_CATEGORIA[indice % TIPOS_CATEGORIA.length];
+        int rodada = indice / TIPOS_CATEGORIA.length;
+        if (rodada == 0) {
+            return tipo;
+        }
+        String qualificador = QUALIFICADORES_CATEGORIA[(rodada - 1) % QUALIFICADORES_CATEGORIA.length];
+        int sufixo = (rodada - 1) / QUALIFICADORES_CATEGORIA.length;
+        return sufixo == 0 ? tipo + " " + qualificador : tipo + " " + qualificador + " " + (sufixo + 1);
+    }
+
+    /** Nome gerado para o produto; depende só da semente e do ID. */
+    String nomeProduto(long id) {
+        SplittableRandom random = aleatorio(id, 3);
+        String tipo = TIPOS_PRODUTO[indiceTipo(id)];
+        String marca = MARCAS[sortear(acumuladoMarcas, random.nextDouble())];
+        String modelo = MODELOS[random.nextInt(MODELOS.length)];
+        // O ID no final garante a unicidade exigida pelo ProdutoService.
+        return tipo + " " + marca + " " + modelo + " " + id;
+    }
+
+    /** Preço log-normal (mediana de R$ 150,00), limitado ao máximo aceito pela validação. */
+    double precoDoProduto(long id) {
+        double preco = Math.exp(Math.log(150) + 1.2 * aleatorio(id, 1).nextGaussian());
+        preco = Math.max(1.0, Math.min(10000.0, preco));
+        return Math.round(preco * 100) / 100.0;
+    }
+
+    /**
+     * Categoria do produto, sorteada por Zipf entre as categorias do ramo do seu tipo.
+     * Com menos categorias que ramos, o ramo pode não existir; aí vale qualquer categoria.
+     */
+    long categoriaDoProduto(long id) {
+        double alvo = aleatorio(id, 2).nextDouble();
+        int ramo = RAMO_DO_TIPO[indiceTipo(id)];
+        if (categoriasPorRamo[ramo].length == 0) {
+            return sortear(acumuladoCategorias, alvo) + 1L;
+        }
+        return categoriasPorRamo[ramo][sortear(acumuladoPorRamo[ramo], alvo)];
+    }
+
+    private int indiceTipo(long id) {
+        return sortear(acumuladoTipos, aleatorio(id, 0).nextDouble());
+    }
+
+    /** Gerador próprio de cada atributo de cada produto, para que a massa possa ser recalculada a partir do ID. */
+    private SplittableRandom aleatorio(long id, int atributo) {
+        return new SplittableRandom((semente * 31 + id) * 4 + atributo);
+    }
+
+    /** Primeiro índice cujo peso acumulado alcança {@code alvo} (busca binária). */
+    private static int sortear(double[] acumulado, double alvo) {
+        int inicio = 0;
+        int fim = acumulado.length - 1;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (acumulado[meio] < alvo) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    private static double[] pesosZipf(int n) {
+        double[] acumulado = new double[n];
+        double soma = 0;
+        for (int i = 0; i < n; i++) {
+            soma += 1.0 / (i + 1);
+            acumulado[i] = soma;
+        }
+        for (int i = 0; i < n; i++) {
+            acumulado[i] /= soma;
+        }
+        return acumulado;
+    }
+
+    private void inserirEmLotes(String sql, List<Object[]> linhas) {
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, linhas);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que a massa da carga é reprodutível sem subir o contexto Spring:
+ * os atributos de cada produto dependem só da semente e do ID.
+ */
+class GeradorDeDadosTest {
+
+    @Test
+    void mesmaSementeEMesmoIdGeramOsMesmosValores() {
+        GeradorDeDados primeira = new GeradorDeDados(null, 42, 50, 1000);
+        GeradorDeDados segunda = new GeradorDeDados(null, 42, 50, 1000);
+        for (long id = 1; id <= 1000; id++) {
+            assertEquals(primeira.nomeProduto(id), segunda.nomeProduto(id));
+            assertEquals(primeira.precoDoProduto(id), segunda.precoDoProduto(id));
+            assertEquals(primeira.categoriaDoProduto(id), segunda.categoriaDoProduto(id));
+        }
+    }
+
+    @Test
+    void sementesDiferentesGeramMassasDiferentes() {
+        GeradorDeDados primeira = new GeradorDeDados(null, 42, 50, 1000);
+        GeradorDeDados segunda = new GeradorDeDados(null, 43, 50, 1000);
+        long iguais = 0;
+        for (long id = 1; id <= 1000; id++) {
+            if (primeira.nomeProduto(id).equals(segunda.nomeProduto(id))) {
+                iguais++;
+            }
+        }
+        assertNotEquals(1000, iguais);
+    }
+
+    @Test
+    void precosECategoriasRespeitamOsLimites() {
+        for (int categorias : new int[] { 1, 7, 50 }) {
+            GeradorDeDados massa = new GeradorDeDados(null, 42, categorias, 5000);
+            for (long id = 1; id <= 5000; id++) {
+                double preco = massa.precoDoProduto(id);
+                assertTrue(preco >= 1 && preco <= 10000, "Preço fora dos limites: " + preco);
+                long categoria = massa.categoriaDoProduto(id);
+                assertTrue(categoria >= 1 && categoria <= categorias, "Categoria fora dos limites: " + categoria);
+            }
+        }
+    }
+
+    @Test
+    void produtoFicaEmUmaCategoriaDoRamoDoSeuTipo() {
+        GeradorDeDados massa = new GeradorDeDados(null, 42, 50, 1000);
+        for (long id = 1; id <= 1000; id++) {
+            String nome = massa.nomeProduto(id);
+            String categoria = GeradorDeDados.nomeCategoria((int) massa.categoriaDoProduto(id) - 1);
+            for (int tipo = 0; tipo < GeradorDeDados.TIPOS_PRODUTO.length; tipo++) {
+                if (nome.startsWith(GeradorDeDados.TIPOS_PRODUTO[tipo] + " ")) {
+                    String ramo = GeradorDeDados.TIPOS_CATEGORIA[GeradorDeDados.RAMO_DO_TIPO[tipo]];
+                    assertTrue(categoria.startsWith(ramo), nome + " em " + categoria);
+                }
+            }
+        }
+    }
+
+    @Test
+    void percentilNearestRankNasBordas() {
+        assertEquals(0, Medicoes.percentil(new long[0], 0.5));
+        assertEquals(7, Medicoes.percentil(new long[] { 7 }, 0.5));
+        assertEquals(7, Medicoes.percentil(new long[] { 7 }, 0.999));
+
+        long[] ordenadas = { 10, 20, 30, 40 };
+        assertEquals(10, Medicoes.percentil(ordenadas, 0.0));
+        assertEquals(20, Medicoes.percentil(ordenadas, 0.5));
+        assertEquals(40, Medicoes.percentil(ordenadas, 1.0));
+    }
+}
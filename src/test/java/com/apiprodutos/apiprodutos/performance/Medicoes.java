@@ -0,0 +1,91 @@
+package com.apiprodutos.apiprodutos.performance;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latências e erros registrados por operação. Cada thread de carga usa a sua
+ * própria instância, que depois é incorporada ao resultado final; por isso a
+ * classe não é thread-safe.
+ */
+public class Medicoes {
+    private final Map<Operacao, Amostras> amostras = new EnumMap<>(Operacao.class);
+    private long duracaoNanos;
+
+    public void registrar(Operacao operacao, long latenciaNanos, boolean erro) {
+        Amostras doGrupo = amostras.computeIfAbsent(operacao, chave -> new Amostras());
+        doGrupo.adicionar(latenciaNanos);
+        if (erro) {
+            doGrupo.erros++;
+        }
+    }
+
+    public void incorporar(Medicoes outras) {
+        outras.amostras.forEach((operacao, deOutra) -> {
+            Amostras doGrupo = amostras.computeIfAbsent(operacao, chave -> new Amostras());
+            for (int i = 0; i < deOutra.quantidade; i++) {
+                doGrupo.adicionar(deOutra.latencias[i]);
+            }
+            doGrupo.erros += deOutra.erros;
+        });
+    }
+
+    public long getDuracaoNanos() { return duracaoNanos; }
+    public void setDuracaoNanos(long duracaoNanos) { this.duracaoNanos = duracaoNanos; }
+
+    public long total() {
+        return amostras.values().stream().mapToLong(a -> a.quantidade).sum();
+    }
+
+    public long totalErros() {
+        return amostras.values().stream().mapToLong(a -> a.erros).sum();
+    }
+
+    public long quantidade(Operacao operacao) {
+        Amostras doGrupo = amostras.get(operacao);
+        return doGrupo == null ? 0 : doGrupo.quantidade;
+    }
+
+    public long erros(Operacao operacao) {
+        Amostras doGrupo = amostras.get(operacao);
+        return doGrupo == null ? 0 : doGrupo.erros;
+    }
+
+    /** Latências ordenadas de uma operação, ou de todas quando {@code operacao} é nula. */
+    public long[] latenciasOrdenadas(Operacao operacao) {
+        long[] resultado;
+        if (operacao != null) {
+            Amostras doGrupo = amostras.get(operacao);
+            resultado = doGrupo == null ? new long[0] : Arrays.copyOf(doGrupo.latencias, doGrupo.quantidade);
+        } else {
+            resultado = amostras.values().stream()
+                .flatMapToLong(a -> Arrays.stream(a.latencias, 0, a.quantidade))
+                .toArray();
+        }
+        Arrays.sort(resultado);
+        return resultado;
+    }
+
+    /** Percentil pelo método nearest-rank; {@code p} entre 0 e 1. */
+    public static long percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(posicao, ordenadas.length - 1))];
+    }
+
+    private static class Amostras {
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        void adicionar(long latenciaNanos) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latenciaNanos;
+        }
+    }
+}
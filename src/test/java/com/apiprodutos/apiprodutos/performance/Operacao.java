@@ -0,0 +1,36 @@
+package com.apiprodutos.apiprodutos.performance;
+
+/**
+ * Endpoints exercitados pela carga, com o peso relativo de cada um dentro do
+ * seu grupo (leitura ou escrita).
+ */
+public enum Operacao {
+    LISTAR_CATEGORIAS(false, 5, "GET /categorias"),
+    BUSCAR_CATEGORIA(false, 15, "GET /categorias/{id}"),
+    PRODUTOS_DA_CATEGORIA(false, 10, "GET /categorias/{id}/produtos"),
+    BUSCAR_CATEGORIA_POR_NOME(false, 5, "GET /categorias/buscar"),
+    LISTAR_PRODUTOS(false, 1, "GET /produtos"),
+    BUSCAR_PRODUTO(false, 40, "GET /produtos/{id}"),
+    BUSCAR_PRODUTO_POR_NOME(false, 14, "GET /produtos/buscar"),
+    APLICAR_DESCONTO(false, 10, "GET /produtos/{id}/desconto"),
+    CRIAR_CATEGORIA(true, 10, "POST /categorias"),
+    ATUALIZAR_CATEGORIA(true, 10, "PUT /categorias/{id}"),
+    DELETAR_CATEGORIA(true, 5, "DELETE /categorias/{id}"),
+    CRIAR_PRODUTO(true, 30, "POST /produtos"),
+    ATUALIZAR_PRODUTO(true, 30, "PUT /produtos/{id}"),
+    DELETAR_PRODUTO(true, 15, "DELETE /produtos/{id}");
+
+    private final boolean escrita;
+    private final int peso;
+    private final String endpoint;
+
+    Operacao(boolean escrita, int peso, String endpoint) {
+        this.escrita = escrita;
+        this.peso = peso;
+        this.endpoint = endpoint;
+    }
+
+    public boolean isEscrita() { return escrita; }
+    public int getPeso() { return peso; }
+    public String getEndpoint() { return endpoint; }
+}